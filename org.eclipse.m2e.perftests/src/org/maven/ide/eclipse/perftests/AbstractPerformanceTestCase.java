@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2020 Sonatype, Inc. and others
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.maven.ide.eclipse.perftests;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+
+import org.junit.Rule;
+import org.junit.rules.TestName;
+
+import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.eclipse.test.internal.performance.InternalDimensions;
+import org.eclipse.test.internal.performance.InternalPerformanceMeter;
+import org.eclipse.test.internal.performance.PerformanceTestPlugin;
+import org.eclipse.test.internal.performance.db.DB;
+import org.eclipse.test.internal.performance.eval.AssertChecker;
+import org.eclipse.test.internal.performance.eval.Evaluator;
+import org.eclipse.test.internal.performance.eval.RelativeBandChecker;
+import org.eclipse.test.performance.Performance;
+import org.eclipse.test.performance.PerformanceMeter;
+
+
+/**
+ * Performance meter setup, evaluation and project generation helpers shared by the performance scenarios.
+ */
+@SuppressWarnings("restriction")
+public abstract class AbstractPerformanceTestCase extends AbstractMavenProjectTestCase {
+
+  protected static final int EXECUTION_COUNT = 5;
+
+  /** groupId of generated projects */
+  protected static final String GROUP_ID = "pts";
+
+  /** version of generated projects */
+  protected static final String VERSION = "0.0.1-SNAPSHOT";
+
+  @Rule
+  public TestName name = new TestName();
+
+  /**
+   * @return a performance meter for the running test method
+   */
+  protected PerformanceMeter createPerformanceMeter() {
+    String scenarioId = getClass().getName() + "#" + name.getMethodName() + "()";
+    return Performance.getDefault().createPerformanceMeter(scenarioId);
+  }
+
+  /**
+   * Checks CPU_TIME, RCHAR and WCHAR of the committed measurements against the reference build.
+   */
+  protected void assertPerformance(PerformanceMeter meter) {
+    Evaluator e = new Evaluator();
+    e.setAssertCheckers(new AssertChecker[] {//
+        new RelativeBandChecker(InternalDimensions.CPU_TIME, 0.8f, 1.1f), //
+        new RelativeBandChecker(InternalDimensions.RCHAR, 0.8f, 1.1f), //
+        new RelativeBandChecker(InternalDimensions.WCHAR, 0.8f, 1.1f)//
+    });
+    e.evaluate(meter);
+
+    String scenarioName = ((InternalPerformanceMeter) meter).getScenarioName();
+
+    @SuppressWarnings("rawtypes")
+    Map failures = DB.queryFailure(scenarioName, PerformanceTestPlugin.getVariations());
+
+    if(failures != null) {
+      assertTrue(failures.values().toString(), failures.isEmpty());
+    }
+  }
+
+  protected static String getModuleName(int i) {
+    return String.format("module%04d", i);
+  }
+
+  protected static void write(File file, String content) throws IOException {
+    file.getParentFile().mkdirs();
+    try (Writer w = new OutputStreamWriter(Files.newOutputStream(file.toPath()), StandardCharsets.UTF_8)) {
+      w.write(content);
+    }
+  }
+}
@@ -0,0 +1,244 @@
+/*******************************************************************************
+ * Copyright (c) 2020 Sonatype, Inc. and others
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.maven.ide.eclipse.perftests;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.codehaus.plexus.util.FileUtils;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IncrementalProjectBuilder;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.project.ResolverConfiguration;
+import org.eclipse.m2e.tests.common.WorkspaceHelpers;
+import org.eclipse.test.performance.PerformanceMeter;
+
+
+/**
+ * Measures full, incremental and clean builds of a generated workspace of jar projects, one
+ * {@link IProject#build(int, org.eclipse.core.runtime.IProgressMonitor)} invocation per project. Besides the bands
+ * recorded by the performance meter, each scenario reports latency of the individual project builds and lists the
+ * projects that took longest to build. Generated projects cycle through {@link #CONFIGURATIONS} and carry the
+ * configuration in their artifactId, so that a slow build can be traced to the build configuration that causes it.
+ */
+@SuppressWarnings("restriction")
+public class BuildPerformanceTest extends AbstractPerformanceTestCase {
+
+  private static final int PROJECT_COUNT = 50;
+
+  /**
+   * Build configurations of generated projects: default resources, filtered resources, filtered resources plus an
+   * additional copy-resources execution, and default resources plus test sources and resources.
+   */
+  private static final String[] CONFIGURATIONS = {"plain", "filtered", "copy-resources", "tests"};
+
+  /** number of slowest projects reported for each scenario */
+  private static final int REPORTED_PROJECTS = 5;
+
+  @Test
+  public void testFullBuild() throws Exception {
+    measureBuild(IncrementalProjectBuilder.FULL_BUILD);
+  }
+
+  @Test
+  public void testIncrementalBuild() throws Exception {
+    measureBuild(IncrementalProjectBuilder.INCREMENTAL_BUILD);
+  }
+
+  @Test
+  public void testCleanBuild() throws Exception {
+    measureBuild(IncrementalProjectBuilder.CLEAN_BUILD);
+  }
+
+  private void measureBuild(int kind) throws Exception {
+    System.out.println(name.getMethodName() + "#setup");
+    IProject[] projects = importProjects();
+
+    System.out.println(name.getMethodName() + "#warmup");
+    for(IProject project : projects) {
+      project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+    }
+    waitForJobsToComplete();
+
+    PerformanceMeter meter = createPerformanceMeter();
+    Samples samples = new Samples();
+    Map<String, Long> durations = new LinkedHashMap<>();
+    try {
+      for(int i = 0; i < EXECUTION_COUNT; i++ ) {
+        System.out.println(name.getMethodName() + "#" + i);
+        prepareBuild(projects, kind);
+
+        long allocated = Samples.getAllocatedBytes();
+        meter.start();
+        for(IProject project : projects) {
+          long start = System.nanoTime();
+          project.build(kind, monitor);
+          long duration = System.nanoTime() - start;
+          samples.add(duration);
+          durations.merge(project.getName(), duration, Long::sum);
+        }
+        meter.stop();
+        samples.addAllocated(Samples.getAllocatedBytes() - allocated);
+        waitForJobsToComplete();
+
+        // sanity check
+        for(IProject project : projects) {
+          assertNoErrors(project);
+        }
+      }
+      meter.commit();
+      samples.print(name.getMethodName());
+      printSlowest(name.getMethodName(), durations);
+      assertPerformance(meter);
+    } finally {
+      meter.dispose();
+    }
+  }
+
+  /**
+   * Makes sure the next build of the given kind has work to do: incremental builds get a changed resource in every
+   * project, clean builds get output to remove.
+   */
+  private void prepareBuild(IProject[] projects, int kind) throws Exception {
+    for(IProject project : projects) {
+      if(kind == IncrementalProjectBuilder.INCREMENTAL_BUILD) {
+        project.getFile("src/main/resources/module.properties").touch(monitor);
+      } else if(kind == IncrementalProjectBuilder.CLEAN_BUILD) {
+        project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+      }
+    }
+    waitForJobsToComplete();
+  }
+
+  private static void printSlowest(String scenario, Map<String, Long> durations) {
+    List<Map.Entry<String, Long>> entries = new ArrayList<>(durations.entrySet());
+    Collections.sort(entries, (a, b) -> Long.compare(b.getValue(), a.getValue()));
+    for(Map.Entry<String, Long> entry : entries.subList(0, Math.min(REPORTED_PROJECTS, entries.size()))) {
+      System.out.println(String.format("%s: %s %.3f ms/build", scenario, entry.getKey(),
+          entry.getValue() / 1e6 / EXECUTION_COUNT));
+    }
+  }
+
+  private IProject[] importProjects() throws Exception {
+    WorkspaceHelpers.cleanWorkspace();
+    waitForJobsToComplete();
+
+    File basedir = generateProjects();
+    String[] poms = new String[PROJECT_COUNT];
+    for(int i = 0; i < PROJECT_COUNT; i++ ) {
+      poms[i] = getModuleName(i) + "/" + IMavenConstants.POM_FILE_NAME;
+    }
+
+    IProject[] projects = importProjects(basedir.getAbsolutePath(), poms, new ResolverConfiguration());
+    waitForJobsToComplete();
+
+    // sanity check
+    assertEquals(PROJECT_COUNT, projects.length);
+    for(IProject project : projects) {
+      assertNoErrors(project);
+    }
+    return projects;
+  }
+
+  /**
+   * Generates <code>PROJECT_COUNT</code> independent jar projects, each with at least one java source and one resource,
+   * so that every build runs both the java builder and the resources mojo. Plugin versions come from the
+   * <code>pts:base:1</code> parent in the local repository.
+   */
+  private File generateProjects() throws IOException {
+    File basedir = new File("target", "build" + PROJECT_COUNT).getCanonicalFile();
+    FileUtils.deleteDirectory(basedir);
+    basedir.mkdirs();
+
+    for(int i = 0; i < PROJECT_COUNT; i++ ) {
+      String configuration = CONFIGURATIONS[i % CONFIGURATIONS.length];
+      boolean filtered = "filtered".equals(configuration) || "copy-resources".equals(configuration);
+
+      StringBuilder pom = new StringBuilder();
+      pom.append("<project><modelVersion>4.0.0</modelVersion>\n");
+      pom.append("  <parent>\n");
+      pom.append("    <groupId>pts</groupId>\n");
+      pom.append("    <artifactId>base</artifactId>\n");
+      pom.append("    <version>1</version>\n");
+      pom.append("  </parent>\n");
+      pom.append("  <groupId>").append(GROUP_ID).append("</groupId>\n");
+      pom.append("  <artifactId>").append(getModuleName(i)).append("-").append(configuration)
+          .append("</artifactId>\n");
+      pom.append("  <version>").append(VERSION).append("</version>\n");
+      pom.append("  <build>\n");
+      if(filtered) {
+        pom.append("    <resources>\n");
+        pom.append("      <resource>\n");
+        pom.append("        <directory>src/main/resources</directory>\n");
+        pom.append("        <filtering>true</filtering>\n");
+        pom.append("      </resource>\n");
+        pom.append("    </resources>\n");
+      }
+      if("copy-resources".equals(configuration)) {
+        pom.append("    <plugins>\n");
+        pom.append("      <plugin>\n");
+        pom.append("        <artifactId>maven-resources-plugin</artifactId>\n");
+        pom.append("        <executions>\n");
+        pom.append("          <execution>\n");
+        pom.append("            <id>copy-config</id>\n");
+        pom.append("            <phase>process-resources</phase>\n");
+        pom.append("            <goals>\n");
+        pom.append("              <goal>copy-resources</goal>\n");
+        pom.append("            </goals>\n");
+        pom.append("            <configuration>\n");
+        pom.append("              <outputDirectory>${project.build.directory}/config</outputDirectory>\n");
+        pom.append("              <resources>\n");
+        pom.append("                <resource>\n");
+        pom.append("                  <directory>src/main/config</directory>\n");
+        pom.append("                  <filtering>true</filtering>\n");
+        pom.append("                </resource>\n");
+        pom.append("              </resources>\n");
+        pom.append("            </configuration>\n");
+        pom.append("          </execution>\n");
+        pom.append("        </executions>\n");
+        pom.append("      </plugin>\n");
+        pom.append("    </plugins>\n");
+      }
+      pom.append("  </build>\n");
+      pom.append("</project>\n");
+
+      File dir = new File(basedir, getModuleName(i));
+      write(new File(dir, IMavenConstants.POM_FILE_NAME), pom.toString());
+      write(new File(dir, "src/main/java/pts/build/" + getClassName(i) + ".java"),
+          "package pts.build;\n\npublic class " + getClassName(i) + " {\n}\n");
+      write(new File(dir, "src/main/resources/module.properties"),
+          "name=${project.artifactId}\nversion=${project.version}\n");
+      if("copy-resources".equals(configuration)) {
+        write(new File(dir, "src/main/config/config.properties"), "name=${project.artifactId}\n");
+      } else if("tests".equals(configuration)) {
+        write(new File(dir, "src/test/java/pts/build/" + getClassName(i) + "Fixture.java"),
+            "package pts.build;\n\npublic class " + getClassName(i) + "Fixture extends " + getClassName(i)
+                + " {\n}\n");
+        write(new File(dir, "src/test/resources/fixture.properties"), "name=fixture\n");
+      }
+    }
+
+    return basedir;
+  }
+
+  private static String getClassName(int i) {
+    return String.format("Module%04d", i);
+  }
+}
@@ -10,15 +10,20 @@
 
 package org.maven.ide.eclipse.perftests;
 
+import static org.junit.Assert.assertEquals;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
 import org.codehaus.plexus.util.FileUtils;
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
@@ -26,12 +31,12 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IWorkspace;
 import org.eclipse.core.resources.IWorkspaceRunnable;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.m2e.core.MavenPlugin;
-import org.eclipse.m2e.core.core.MavenConsole;
 import org.eclipse.m2e.core.embedder.MavenModelManager;
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
 import org.eclipse.m2e.core.project.IMavenProjectChangedListener;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.IMavenProjectImportResult;
@@ -39,28 +44,17 @@ import org.eclipse.m2e.core.project.IProjectConfigurationManager;
 import org.eclipse.m2e.core.project.LocalProjectScanner;
 import org.eclipse.m2e.core.project.MavenProjectChangedEvent;
 import org.eclipse.m2e.core.project.MavenProjectInfo;
-import org.eclipse.m2e.core.project.MavenProjectManager;
 import org.eclipse.m2e.core.project.MavenUpdateRequest;
 import org.eclipse.m2e.core.project.ProjectImportConfiguration;
-import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
 import org.eclipse.m2e.tests.common.WorkspaceHelpers;
-import org.eclipse.test.internal.performance.InternalDimensions;
-import org.eclipse.test.internal.performance.InternalPerformanceMeter;
-import org.eclipse.test.internal.performance.PerformanceTestPlugin;
-import org.eclipse.test.internal.performance.db.DB;
-import org.eclipse.test.internal.performance.eval.AssertChecker;
-import org.eclipse.test.internal.performance.eval.Evaluator;
-import org.eclipse.test.internal.performance.eval.RelativeBandChecker;
-import org.eclipse.test.performance.Performance;
 import org.eclipse.test.performance.PerformanceMeter;
 
 
 /**
  * @author igor
  */
-public class ImportPerformanceTest extends AbstractMavenProjectTestCase {
-
-  private static final int EXECUTION_COUNT = 5;
+@SuppressWarnings("restriction")
+public class ImportPerformanceTest extends AbstractPerformanceTestCase {
 
   protected PerformanceMeter fPerformanceMeter;
 
@@ -68,34 +62,30 @@ public class ImportPerformanceTest extends AbstractMavenProjectTestCase {
 
   private MavenModelManager modelManager;
 
-  private MavenConsole console;
-
-  private MavenProjectManager projectManager;
+  private ProjectRegistryManager projectManager;
 
-  private List<MavenProjectChangedEvent> events = new ArrayList<MavenProjectChangedEvent>();
+  private List<MavenProjectChangedEvent> events = new ArrayList<>();
 
-  private IMavenProjectChangedListener mavenProjectChangeListener = new IMavenProjectChangedListener() {
-    public void mavenProjectChanged(MavenProjectChangedEvent[] events, IProgressMonitor monitor) {
-      ImportPerformanceTest.this.events.addAll(Arrays.asList(events));
-    }
-  };
+  private IMavenProjectChangedListener mavenProjectChangeListener = (event, monitor) -> events
+      .addAll(Arrays.asList(event));
 
-  protected void setUp() throws Exception {
+  @Override
+  @Before
+  public void setUp() throws Exception {
     super.setUp();
 
-    MavenPlugin mavenPlugin = MavenPlugin.getDefault();
-    configurationManager = mavenPlugin.getProjectConfigurationManager();
-    modelManager = mavenPlugin.getMavenModelManager();
-    console = mavenPlugin.getConsole();
-    projectManager = mavenPlugin.getMavenProjectManager();
+    configurationManager = MavenPlugin.getProjectConfigurationManager();
+    modelManager = MavenPlugin.getMavenModelManager();
+    projectManager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
 
-    Performance performance = Performance.getDefault();
-    fPerformanceMeter = performance.createPerformanceMeter(performance.getDefaultScenarioId(this));
+    fPerformanceMeter = createPerformanceMeter();
 
     projectManager.addMavenProjectChangedListener(mavenProjectChangeListener);
   }
 
-  protected void tearDown() throws Exception {
+  @Override
+  @After
+  public void tearDown() throws Exception {
     projectManager.removeMavenProjectChangedListener(mavenProjectChangeListener);
     fPerformanceMeter.dispose();
     super.tearDown();
@@ -113,33 +103,15 @@ public class ImportPerformanceTest extends AbstractMavenProjectTestCase {
     fPerformanceMeter.commit();
   }
 
-  protected void assertPerformance(AssertChecker... assertCheckers) {
-    Evaluator e = new Evaluator();
-    e.setAssertCheckers(assertCheckers);
-    e.evaluate(fPerformanceMeter);
-
-    String scenarioName = ((InternalPerformanceMeter) fPerformanceMeter).getScenarioName();
-
-    @SuppressWarnings("rawtypes")
-    Map failures = DB.queryFailure(scenarioName, PerformanceTestPlugin.getVariations());
-
-    if(failures != null) {
-      assertTrue(failures.values().toString(), failures.isEmpty());
-    }
-  }
-
   protected void assertPerformance() {
-    assertPerformance(//
-        new RelativeBandChecker(InternalDimensions.CPU_TIME, 0.8f, 1.1f), //
-        new RelativeBandChecker(InternalDimensions.RCHAR, 0.8f, 1.1f), //
-        new RelativeBandChecker(InternalDimensions.WCHAR, 0.8f, 1.1f)//
-    );
+    assertPerformance(fPerformanceMeter);
   }
 
+  @Test
   public void testImportEmptyWorkspace() throws Exception {
     // warm up
-    System.out.println(getName() + "#warmup");
-    List<IMavenProjectImportResult> results = new ArrayList<IMavenProjectImportResult>();
+    System.out.println(name.getMethodName() + "#warmup");
+    List<IMavenProjectImportResult> results = new ArrayList<>();
     results.addAll(importProjects(getBasedir("p001/libs", "libs")));
     results.addAll(importProjects(getBasedir("p001/core", "core")));
 
@@ -150,7 +122,7 @@ public class ImportPerformanceTest extends AbstractMavenProjectTestCase {
     }
 
     for(int i = 0; i < EXECUTION_COUNT; i++ ) {
-      System.out.println(getName() + "#" + i);
+      System.out.println(name.getMethodName() + "#" + i);
 
       // workspace cleanup
       WorkspaceHelpers.cleanWorkspace();
@@ -161,7 +133,7 @@ public class ImportPerformanceTest extends AbstractMavenProjectTestCase {
       File core = getBasedir("p001/core", "core");
 
       startMeasuring();
-      results = new ArrayList<IMavenProjectImportResult>();
+      results = new ArrayList<>();
       results.addAll(importProjects(libs));
       results.addAll(importProjects(core));
       stopMeasuring();
@@ -178,17 +150,16 @@ public class ImportPerformanceTest extends AbstractMavenProjectTestCase {
     assertPerformance();
   }
 
+  @Test
   public void testUpdateDependencies() throws Exception {
-    System.out.println(getName() + "#setup");
+    System.out.println(name.getMethodName() + "#setup");
     importProjects(getBasedir("p001/libs", "libs"));
     importProjects(getBasedir("p001/core", "core"));
 
     IMavenProjectFacade testee = projectManager.getMavenProject("p001.core", "module107", "0.0.1-SNAPSHOT");
 
-    System.out.println(getName() + "#warmup");
-    MavenUpdateRequest request = new MavenUpdateRequest(false, false);
-    request.addPomFile(testee.getPom());
-    projectManager.refresh(request, monitor);
+    System.out.println(name.getMethodName() + "#warmup");
+    projectManager.refresh(new MavenUpdateRequest(testee.getProject(), false, false), monitor);
 
     // sanity check
     IMavenProjectFacade[] projects = projectManager.getProjects();
@@ -198,34 +169,24 @@ public class ImportPerformanceTest extends AbstractMavenProjectTestCase {
     }
 
     for(int i = 0; i < EXECUTION_COUNT; i++ ) {
-      System.out.println(getName() + "#" + i);
+      System.out.println(name.getMethodName() + "#" + i);
 
       events.clear();
 
       startMeasuring();
-      workspace.run(new IWorkspaceRunnable() {
-        public void run(IProgressMonitor monitor) throws CoreException {
-          IMavenProjectFacade testee = projectManager.getMavenProject("p001.core", "module107", "0.0.1-SNAPSHOT");
-          IProject project = testee.getProject();
-          try {
-            InputStream contents = project.getFile("pom_with_new_dependency.xml").getContents();
-            try {
-              IFile file = project.getFile("pom.xml");
-              if(!file.exists()) {
-                file.create(contents, IResource.FORCE, monitor);
-              } else {
-                file.setContents(contents, IResource.FORCE, monitor);
-              }
-            } finally {
-              contents.close();
-            }
-          } catch(IOException e) {
-            throw new CoreException(new Status(IStatus.ERROR, "pluginId", "Interrupted", e));
+      workspace.run((IWorkspaceRunnable) monitor -> {
+        IProject project = projectManager.getMavenProject("p001.core", "module107", "0.0.1-SNAPSHOT").getProject();
+        try (InputStream contents = project.getFile("pom_with_new_dependency.xml").getContents()) {
+          IFile file = project.getFile("pom.xml");
+          if(!file.exists()) {
+            file.create(contents, IResource.FORCE, monitor);
+          } else {
+            file.setContents(contents, IResource.FORCE, monitor);
           }
-          MavenUpdateRequest request = new MavenUpdateRequest(false, false);
-          request.addPomFile(testee.getPom());
-          projectManager.refresh(request, monitor);
+        } catch(IOException e) {
+          throw new CoreException(new Status(IStatus.ERROR, "pluginId", "Interrupted", e));
         }
+        projectManager.refresh(new MavenUpdateRequest(project, false, false), monitor);
       }, monitor);
       stopMeasuring();
 
@@ -244,29 +205,27 @@ public class ImportPerformanceTest extends AbstractMavenProjectTestCase {
   }
 
   private List<IMavenProjectImportResult> importProjects(final File dir) throws CoreException {
-    final List<IMavenProjectImportResult> results = new ArrayList<IMavenProjectImportResult>();
-    workspace.run(new IWorkspaceRunnable() {
-      public void run(IProgressMonitor monitor) throws CoreException {
-        ProjectImportConfiguration configuration = new ProjectImportConfiguration();
-
-        LocalProjectScanner scanner = new LocalProjectScanner(workspace.getRoot().getLocation().toFile(), dir
-            .getAbsolutePath(), false, modelManager, console);
-        try {
-          scanner.run(monitor);
-        } catch(InterruptedException e) {
-          throw new CoreException(new Status(IStatus.ERROR, "pluginId", "Interrupted", e));
-        }
+    final List<IMavenProjectImportResult> results = new ArrayList<>();
+    workspace.run((IWorkspaceRunnable) monitor -> {
+      ProjectImportConfiguration configuration = new ProjectImportConfiguration();
+
+      LocalProjectScanner scanner = new LocalProjectScanner(workspace.getRoot().getLocation().toFile(),
+          dir.getAbsolutePath(), false, modelManager);
+      try {
+        scanner.run(monitor);
+      } catch(InterruptedException e) {
+        throw new CoreException(new Status(IStatus.ERROR, "pluginId", "Interrupted", e));
+      }
 
-        Set<MavenProjectInfo> projectInfos = configurationManager.collectProjects(scanner.getProjects());
+      Set<MavenProjectInfo> projectInfos = configurationManager.collectProjects(scanner.getProjects());
 
-        results.addAll(configurationManager.importProjects(projectInfos, configuration, monitor));
-      }
-    }, plugin.getProjectConfigurationManager().getRule(), IWorkspace.AVOID_UPDATE, monitor);
+      results.addAll(configurationManager.importProjects(projectInfos, configuration, monitor));
+    }, configurationManager.getRule(), IWorkspace.AVOID_UPDATE, monitor);
     return results;
   }
 
-  private File getBasedir(String src, String name) throws IOException {
-    File dir = new File("target", name).getCanonicalFile();
+  private File getBasedir(String src, String dirName) throws IOException {
+    File dir = new File("target", dirName).getCanonicalFile();
     FileUtils.deleteDirectory(dir);
     FileUtils.copyDirectoryStructure(new File("projects/", src), dir);
     return dir;
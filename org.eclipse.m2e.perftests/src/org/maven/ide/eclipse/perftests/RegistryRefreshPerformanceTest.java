@@ -0,0 +1,260 @@
+/*******************************************************************************
+ * Copyright (c) 2020 Sonatype, Inc. and others
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.maven.ide.eclipse.perftests;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.codehaus.plexus.util.FileUtils;
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.m2e.core.internal.IMavenConstants;
+import org.eclipse.m2e.core.internal.MavenPluginActivator;
+import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
+import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.MavenUpdateRequest;
+import org.eclipse.m2e.core.project.ResolverConfiguration;
+import org.eclipse.m2e.tests.common.WorkspaceHelpers;
+import org.eclipse.test.performance.PerformanceMeter;
+
+
+/**
+ * Measures {@link ProjectRegistryManager#refresh(MavenUpdateRequest, org.eclipse.core.runtime.IProgressMonitor)} and
+ * facade lookup through
+ * {@link ProjectRegistryManager#create(IFile, boolean, org.eclipse.core.runtime.IProgressMonitor)} against synthetic
+ * reactors of 100, 1000 and 5000 modules. Besides the CPU_TIME/RCHAR/WCHAR bands recorded by the performance meter,
+ * each scenario reports throughput, allocated bytes and p99 latency of the individual invocations.
+ * The 5000 modules scenario needs a large heap and only runs when <code>-Dm2e.perftests.large=true</code> is set.
+ */
+@SuppressWarnings("restriction")
+public class RegistryRefreshPerformanceTest extends AbstractPerformanceTestCase {
+
+  /** number of modules in each dependency chain of the generated reactor */
+  private static final int CHAIN_LENGTH = 10;
+
+  private ProjectRegistryManager manager;
+
+  @Override
+  @Before
+  public void setUp() throws Exception {
+    super.setUp();
+    manager = MavenPluginActivator.getDefault().getMavenProjectManagerImpl();
+  }
+
+  @Override
+  @After
+  public void tearDown() throws Exception {
+    manager = null;
+    super.tearDown();
+  }
+
+  @Test
+  public void testRefresh100() throws Exception {
+    measureRefresh(100);
+  }
+
+  @Test
+  public void testRefresh1000() throws Exception {
+    measureRefresh(1000);
+  }
+
+  @Test
+  public void testRefresh5000() throws Exception {
+    Assume.assumeTrue(Boolean.getBoolean("m2e.perftests.large"));
+    measureRefresh(5000);
+  }
+
+  @Test
+  public void testLookup100() throws Exception {
+    measureLookup(100);
+  }
+
+  @Test
+  public void testLookup1000() throws Exception {
+    measureLookup(1000);
+  }
+
+  @Test
+  public void testLookup5000() throws Exception {
+    Assume.assumeTrue(Boolean.getBoolean("m2e.perftests.large"));
+    measureLookup(5000);
+  }
+
+  /**
+   * Refreshes the reactor parent, which invalidates every module of the reactor.
+   */
+  private void measureRefresh(int size) throws Exception {
+    System.out.println(name.getMethodName() + "#setup");
+    IProject[] projects = importReactor(size);
+    final IProject parent = projects[0];
+
+    System.out.println(name.getMethodName() + "#warmup");
+    refresh(parent);
+
+    PerformanceMeter meter = createPerformanceMeter();
+    Samples samples = new Samples();
+    try {
+      for(int i = 0; i < EXECUTION_COUNT; i++ ) {
+        System.out.println(name.getMethodName() + "#" + i);
+        long allocated = Samples.getAllocatedBytes();
+        long start = System.nanoTime();
+        meter.start();
+        refresh(parent);
+        meter.stop();
+        samples.add(System.nanoTime() - start, Samples.getAllocatedBytes() - allocated);
+
+        // sanity check
+        assertEquals(size + 1, manager.getProjects().length);
+      }
+      meter.commit();
+      samples.print(name.getMethodName());
+      assertPerformance(meter);
+    } finally {
+      meter.dispose();
+    }
+  }
+
+  /**
+   * Calls create(IFile) and getMavenProject for every module pom. All poms are registered by the import, so this
+   * measures facade lookup and MavenProject cache access, not reading projects from scratch.
+   */
+  private void measureLookup(int size) throws Exception {
+    System.out.println(name.getMethodName() + "#setup");
+    IProject[] projects = importReactor(size);
+
+    List<IFile> poms = new ArrayList<>();
+    for(IProject project : projects) {
+      poms.add(project.getFile(IMavenConstants.POM_FILE_NAME));
+    }
+
+    System.out.println(name.getMethodName() + "#warmup");
+    for(IFile pom : poms) {
+      assertNotNull(manager.create(pom, true, monitor));
+    }
+
+    PerformanceMeter meter = createPerformanceMeter();
+    Samples samples = new Samples();
+    try {
+      for(int i = 0; i < EXECUTION_COUNT; i++ ) {
+        System.out.println(name.getMethodName() + "#" + i);
+        long allocated = Samples.getAllocatedBytes();
+        meter.start();
+        for(IFile pom : poms) {
+          long start = System.nanoTime();
+          IMavenProjectFacade facade = manager.create(pom, true, monitor);
+          facade.getMavenProject(monitor);
+          samples.add(System.nanoTime() - start);
+        }
+        meter.stop();
+        samples.addAllocated(Samples.getAllocatedBytes() - allocated);
+      }
+      meter.commit();
+      samples.print(name.getMethodName());
+      assertPerformance(meter);
+    } finally {
+      meter.dispose();
+    }
+  }
+
+  private void refresh(IProject project) throws Exception {
+    workspace.run((IWorkspaceRunnable) monitor -> manager.refresh(new MavenUpdateRequest(project, false, false),
+        monitor), monitor);
+  }
+
+  private IProject[] importReactor(int size) throws Exception {
+    WorkspaceHelpers.cleanWorkspace();
+    waitForJobsToComplete();
+
+    File basedir = generateReactor(size);
+    String[] poms = new String[size + 1];
+    poms[0] = IMavenConstants.POM_FILE_NAME;
+    for(int i = 0; i < size; i++ ) {
+      poms[i + 1] = getModuleName(i) + "/" + IMavenConstants.POM_FILE_NAME;
+    }
+
+    IProject[] projects = importProjects(basedir.getAbsolutePath(), poms, new ResolverConfiguration());
+    waitForJobsToComplete();
+
+    // sanity check
+    assertEquals(size + 1, projects.length);
+    for(IProject project : projects) {
+      assertNoErrors(project);
+    }
+    return projects;
+  }
+
+  /**
+   * Generates an aggregator with <code>size</code> modules. Modules are organized in chains of
+   * {@link #CHAIN_LENGTH}, each module depending on its predecessor in the chain, so that a refresh propagates through
+   * workspace dependencies and not only through the parent. Plugin versions come from the <code>pts:base:1</code>
+   * parent in the local repository.
+   */
+  private File generateReactor(int size) throws IOException {
+    File basedir = new File("target", "reactor" + size).getCanonicalFile();
+    FileUtils.deleteDirectory(basedir);
+    basedir.mkdirs();
+
+    StringBuilder parent = new StringBuilder();
+    parent.append("<project><modelVersion>4.0.0</modelVersion>\n");
+    parent.append("  <parent>\n");
+    parent.append("    <groupId>pts</groupId>\n");
+    parent.append("    <artifactId>base</artifactId>\n");
+    parent.append("    <version>1</version>\n");
+    parent.append("  </parent>\n");
+    parent.append("  <groupId>").append(GROUP_ID).append("</groupId>\n");
+    parent.append("  <artifactId>reactor</artifactId>\n");
+    parent.append("  <version>").append(VERSION).append("</version>\n");
+    parent.append("  <packaging>pom</packaging>\n");
+    parent.append("  <modules>\n");
+    for(int i = 0; i < size; i++ ) {
+      parent.append("    <module>").append(getModuleName(i)).append("</module>\n");
+    }
+    parent.append("  </modules>\n");
+    parent.append("</project>\n");
+    write(new File(basedir, IMavenConstants.POM_FILE_NAME), parent.toString());
+
+    for(int i = 0; i < size; i++ ) {
+      StringBuilder module = new StringBuilder();
+      module.append("<project><modelVersion>4.0.0</modelVersion>\n");
+      module.append("  <parent>\n");
+      module.append("    <groupId>").append(GROUP_ID).append("</groupId>\n");
+      module.append("    <artifactId>reactor</artifactId>\n");
+      module.append("    <version>").append(VERSION).append("</version>\n");
+      module.append("  </parent>\n");
+      module.append("  <artifactId>").append(getModuleName(i)).append("</artifactId>\n");
+      if(i % CHAIN_LENGTH != 0) {
+        module.append("  <dependencies>\n");
+        module.append("    <dependency>\n");
+        module.append("      <groupId>").append(GROUP_ID).append("</groupId>\n");
+        module.append("      <artifactId>").append(getModuleName(i - 1)).append("</artifactId>\n");
+        module.append("      <version>").append(VERSION).append("</version>\n");
+        module.append("    </dependency>\n");
+        module.append("  </dependencies>\n");
+      }
+      module.append("</project>\n");
+      File dir = new File(basedir, getModuleName(i));
+      write(new File(dir, IMavenConstants.POM_FILE_NAME), module.toString());
+    }
+
+    return basedir;
+  }
+}
@@ -0,0 +1,74 @@
+/*******************************************************************************
+ * Copyright (c) 2020 Sonatype, Inc. and others
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.maven.ide.eclipse.perftests;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+
+/**
+ * Per-invocation latency samples and the bytes allocated by those invocations. Allocation is read through JMX, so
+ * callers sample it outside of measured regions and may record it once for several invocations.
+ */
+class Samples {
+  private static final ObjectName THREADING = ManagementFactory.getThreadMXBean().getObjectName();
+
+  private final List<Long> durations = new ArrayList<>();
+
+  private long allocated;
+
+  void add(long duration, long allocated) {
+    add(duration);
+    addAllocated(allocated);
+  }
+
+  void add(long duration) {
+    durations.add(duration);
+  }
+
+  void addAllocated(long allocated) {
+    this.allocated += allocated;
+  }
+
+  void print(String scenario) {
+    long[] sorted = new long[durations.size()];
+    long total = 0;
+    for(int i = 0; i < sorted.length; i++ ) {
+      sorted[i] = durations.get(i);
+      total += sorted[i];
+    }
+    Arrays.sort(sorted);
+    long p99 = sorted[Math.max(0, (int) Math.ceil(sorted.length * 0.99) - 1)];
+
+    double seconds = total / 1e9;
+    System.out.println(String.format("%s: %d invocations, %.2f ops/s, p99 %.3f ms, %d bytes/op allocated", scenario,
+        sorted.length, sorted.length / seconds, p99 / 1e6, allocated / sorted.length));
+  }
+
+  /**
+   * @return bytes allocated by the current thread so far, or 0 if the JVM does not support allocation accounting
+   */
+  static long getAllocatedBytes() {
+    // going through the platform MBean server keeps the bundle off the vendor specific com.sun.management API
+    try {
+      Object allocated = ManagementFactory.getPlatformMBeanServer().invoke(THREADING, "getThreadAllocatedBytes",
+          new Object[] {Thread.currentThread().getId()}, new String[] {long.class.getName()});
+      return allocated instanceof Long ? (Long) allocated : 0;
+    } catch(JMException e) {
+      return 0;
+    }
+  }
+}
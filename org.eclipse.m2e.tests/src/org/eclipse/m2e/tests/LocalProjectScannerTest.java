@@ -19,10 +19,13 @@ import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -298,6 +301,67 @@ public class LocalProjectScannerTest {
     assertFalse(tempDirectory.exists());
   }
 
+  @Test
+  public void testWideTree() throws Exception {
+    File baseDir = new File("target/localprojectscanner-wide").getCanonicalFile();
+    FileUtils.deleteDirectory(baseDir);
+    int count = 50;
+    for(int i = 0; i < count; i++ ) {
+      String artifactId = String.format("p%02d", i);
+      File projectDir = new File(baseDir, artifactId);
+      writePom(new File(projectDir, "pom.xml"), "localprojectscanner.wide", artifactId, "pom",
+          "<modules><module>m</module></modules>");
+      writePom(new File(projectDir, "m/pom.xml"), "localprojectscanner.wide", artifactId + "-m", "jar", "");
+    }
+
+    Map<File, List<File>> structure = scanStructure(baseDir);
+    assertEquals(count, structure.size());
+    for(Map.Entry<File, List<File>> entry : structure.entrySet()) {
+      File module = new File(entry.getKey().getParentFile(), "m/pom.xml");
+      assertEquals(Collections.singletonList(module), entry.getValue());
+    }
+
+    // a repeated scan attaches the same modules to the same parents
+    assertEquals(structure, scanStructure(baseDir));
+
+    FileUtils.deleteDirectory(baseDir);
+  }
+
+  @Test
+  public void testPomHeaderAfterChange() throws Exception {
+    File baseDir = new File("target/localprojectscanner-header").getCanonicalFile();
+    FileUtils.deleteDirectory(baseDir);
+    File pom = new File(baseDir, "pom.xml");
+    writePom(pom, "localprojectscanner.header", "parent", "pom", "<modules><module>m</module></modules>");
+    writePom(new File(baseDir, "m/pom.xml"), "localprojectscanner.header", "module", "jar",
+        "<parent><groupId>localprojectscanner.header</groupId>"
+            + "<artifactId>parent</artifactId><version>0.0.1-SNAPSHOT</version></parent>");
+
+    LocalProjectScanner scanner = new LocalProjectScanner(baseDir, baseDir.getAbsolutePath(), false, modelManager);
+    scanner.run(new NullProgressMonitor());
+    List<MavenProjectInfo> projects = scanner.getProjects();
+    assertEquals(1, projects.size());
+    MavenProjectInfo parent = projects.get(0);
+    assertEquals("parent", parent.getModel().getArtifactId());
+    assertEquals("pom", parent.getModel().getPackaging());
+    assertEquals(Collections.singletonList("m"), parent.getModel().getModules());
+    MavenProjectInfo module = parent.getProjects().iterator().next();
+    assertEquals("module", module.getModel().getArtifactId());
+    assertEquals("parent", module.getModel().getParent().getArtifactId());
+
+    // rescan must not return stale header information for a changed pom
+    writePom(pom, "localprojectscanner.header", "renamed", "pom", "<modules><module>m</module></modules>");
+    pom.setLastModified(pom.lastModified() + 2000L);
+
+    scanner = new LocalProjectScanner(baseDir, baseDir.getAbsolutePath(), false, modelManager);
+    scanner.run(new NullProgressMonitor());
+    projects = scanner.getProjects();
+    assertEquals(1, projects.size());
+    assertEquals("renamed", projects.get(0).getModel().getArtifactId());
+
+    FileUtils.deleteDirectory(baseDir);
+  }
+
   @Test
   public void testNoMetadata() throws Exception {
     File baseDir = new File("projects/localprojectscanner/nometadata").getCanonicalFile();
@@ -336,4 +400,30 @@ public class LocalProjectScannerTest {
 
   }
 
+  /**
+   * @return module pom files of every top-level project found in <code>baseDir</code>, keyed by the project pom file
+   */
+  private Map<File, List<File>> scanStructure(File baseDir) throws Exception {
+    LocalProjectScanner scanner = new LocalProjectScanner(baseDir, baseDir.getAbsolutePath(), false, modelManager);
+    scanner.run(new NullProgressMonitor());
+    Map<File, List<File>> structure = new HashMap<>();
+    for(MavenProjectInfo project : scanner.getProjects()) {
+      List<File> modules = new ArrayList<>();
+      for(MavenProjectInfo module : project.getProjects()) {
+        modules.add(module.getPomFile());
+      }
+      structure.put(project.getPomFile(), modules);
+    }
+    return structure;
+  }
+
+  private static void writePom(File pom, String groupId, String artifactId, String packaging, String body)
+      throws IOException {
+    pom.getParentFile().mkdirs();
+    String content = "<project><modelVersion>4.0.0</modelVersion>" //
+        + "<groupId>" + groupId + "</groupId><artifactId>" + artifactId + "</artifactId>" //
+        + "<version>0.0.1-SNAPSHOT</version><packaging>" + packaging + "</packaging>" + body + "</project>";
+    Files.write(pom.toPath(), content.getBytes(StandardCharsets.UTF_8));
+  }
+
 }
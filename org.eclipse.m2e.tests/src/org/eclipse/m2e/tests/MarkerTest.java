@@ -21,6 +21,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -45,6 +46,7 @@ import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.Messages;
 import org.eclipse.m2e.core.internal.markers.MavenMarkerManager;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.MavenUpdateRequest;
 import org.eclipse.m2e.editor.xml.internal.lifecycle.LifecycleMappingResolution;
 import org.eclipse.m2e.editor.xml.internal.lifecycle.WorkspaceLifecycleMappingResolution;
 import org.eclipse.m2e.internal.discovery.markers.DiscoveryWizardResolution;
@@ -403,6 +405,46 @@ public class MarkerTest extends AbstractMavenProjectTestCase {
         p.findMarkers(IMavenConstants.MARKER_CONFIGURATION_ID, false /*includeSubtypes*/, IResource.DEPTH_ZERO).length);
   }
 
+  @Test
+  public void testDistinctMarkersNotMerged() throws CoreException {
+    final IProject p = workspace.getRoot().getProject(name.getMethodName());
+    p.create(new NullProgressMonitor());
+    p.open(new NullProgressMonitor());
+    MavenMarkerManager mmm = new MavenMarkerManager(null);
+    mmm.addMarker(p, IMavenConstants.MARKER_CONFIGURATION_ID, Messages.ProjectConfigurationUpdateRequired, -1,
+        IMarker.SEVERITY_ERROR);
+    mmm.addMarker(p, IMavenConstants.MARKER_CONFIGURATION_ID, Messages.ProjectConfigurationUpdateRequired, 1,
+        IMarker.SEVERITY_ERROR);
+    mmm.addMarker(p, IMavenConstants.MARKER_CONFIGURATION_ID, "another message", -1, IMarker.SEVERITY_ERROR);
+    assertEquals(3,
+        p.findMarkers(IMavenConstants.MARKER_CONFIGURATION_ID, false /*includeSubtypes*/, IResource.DEPTH_ZERO).length);
+  }
+
+  @Test
+  public void testMarkersUnchangedAfterRefresh() throws Exception {
+    IProject project = importProject("projects/markers/testArtifactNotFoundMarkerAttributes/pom.xml");
+    waitForJobsToComplete();
+    List<String> markers = describe(WorkspaceHelpers.findErrorMarkers(project));
+    assertEquals(markers.toString(), 3, markers.size());
+
+    // refreshing a project whose problems did not change must produce the same set of markers
+    MavenPluginActivator.getDefault().getMavenProjectManagerImpl()
+        .refresh(new MavenUpdateRequest(project, false /*offline*/, false /*updateSnapshots*/), monitor);
+    waitForJobsToComplete();
+
+    assertEquals(markers, describe(WorkspaceHelpers.findErrorMarkers(project)));
+  }
+
+  private static List<String> describe(List<IMarker> markers) throws CoreException {
+    List<String> result = new ArrayList<>();
+    for(IMarker marker : markers) {
+      result.add(marker.getType() + " " + marker.getResource().getFullPath() + ":"
+          + marker.getAttribute(IMarker.LINE_NUMBER, -1) + " " + marker.getAttribute(IMarker.MESSAGE, null));
+    }
+    Collections.sort(result);
+    return result;
+  }
+
   @Test
   public void test361445_missingArtifactMarkerAttributes() throws Exception {
     IProject project = importProject("projects/markers/testArtifactNotFoundMarkerAttributes/pom.xml");
@@ -21,7 +21,10 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -43,7 +46,9 @@ import org.eclipse.m2e.core.embedder.IMaven;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.project.registry.Capability;
 import org.eclipse.m2e.core.internal.project.registry.IProjectRegistry;
+import org.eclipse.m2e.core.internal.project.registry.MavenCapability;
 import org.eclipse.m2e.core.internal.project.registry.MavenProjectFacade;
+import org.eclipse.m2e.core.internal.project.registry.MavenRequiredCapability;
 import org.eclipse.m2e.core.internal.project.registry.MutableProjectRegistry;
 import org.eclipse.m2e.core.internal.project.registry.ProjectRegistry;
 import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryReader;
@@ -257,6 +262,117 @@ public class MutableProjectRegistryTest extends AbstractMavenProjectTestCase {
     tmpDir.delete();
   }
 
+  @Test
+  public void testWorkspaceStateRoundTrip() throws Exception {
+    ProjectRegistry state = new ProjectRegistry();
+    MutableProjectRegistry delta = new MutableProjectRegistry(state);
+
+    IProject project = createExisting("dummy", "resources/dummy");
+    IFile pom1 = project.getFile("p1.xml");
+    IFile pom2 = project.getFile("p2.xml");
+    MavenProjectFacade f1 = newProjectFacade(pom1);
+    MavenProjectFacade f2 = newProjectFacade(pom2);
+    delta.setProject(pom1, f1);
+    delta.setProject(pom2, f2);
+    Capability capability = MavenCapability.createMavenArtifact(f1.getArtifactKey());
+    delta.setCapabilities(pom1, Collections.singleton(capability));
+    delta.setRequirements(pom2,
+        Collections.singleton(MavenRequiredCapability.createMavenArtifact(f1.getArtifactKey(), "compile", false)));
+    state.apply(delta);
+
+    File tmpDir = File.createTempFile("m2e-" + name.getMethodName(), "dir");
+    tmpDir.delete();
+    tmpDir.mkdir();
+    ProjectRegistryReader reader = new ProjectRegistryReader(tmpDir);
+    reader.writeWorkspaceState(state);
+
+    state = reader.readWorkspaceState(null);
+    assertTrue(state.isValid());
+    assertEquals(2, state.getProjects().length);
+    assertEquals(f1.getArtifactKey(), state.getProjectFacade(pom1).getArtifactKey());
+    assertEquals(f2.getArtifactKey(), state.getProjectFacade(pom2).getArtifactKey());
+    assertEquals(1, getWorkspaceArtifacts(state, f1.getArtifactKey()).size());
+
+    // capabilities and requirements survive, pom2 is still a dependent of pom1
+    assertEquals(Collections.singleton(pom2), new MutableProjectRegistry(state).getDependents(capability, false));
+
+    new File(tmpDir, WORKSPACE_STATE_SER).delete();
+    tmpDir.delete();
+  }
+
+  @Test
+  public void testWorkspaceStateAfterSuccessiveDeltas() throws Exception {
+    ProjectRegistry state = new ProjectRegistry();
+
+    IProject project = createExisting("dummy", "resources/dummy");
+    IFile pom1 = project.getFile("p1.xml");
+    IFile pom2 = project.getFile("p2.xml");
+    MavenProjectFacade f1 = newProjectFacade(pom1);
+    MavenProjectFacade f2 = newProjectFacade(pom2);
+
+    File tmpDir = File.createTempFile("m2e-" + name.getMethodName(), "dir");
+    tmpDir.delete();
+    tmpDir.mkdir();
+    ProjectRegistryReader reader = new ProjectRegistryReader(tmpDir);
+
+    MutableProjectRegistry delta = new MutableProjectRegistry(state);
+    delta.setProject(pom1, f1);
+    delta.setProject(pom2, f2);
+    delta.setRequirements(pom1,
+        Collections.singleton(MavenRequiredCapability.createMavenArtifact(f2.getArtifactKey(), "compile", false)));
+    state.apply(delta);
+    reader.writeWorkspaceState(state);
+
+    // replace pom1, now with p2 as its parent instead of as a dependency
+    delta = new MutableProjectRegistry(state);
+    delta.setProject(pom1, newProjectFacade(pom1));
+    delta.setRequirements(pom1, Collections.singleton(MavenRequiredCapability.createMavenParent(f2.getArtifactKey())));
+    state.apply(delta);
+    reader.writeWorkspaceState(state);
+
+    delta = new MutableProjectRegistry(state);
+    delta.removeProject(pom2, f2.getArtifactKey());
+    state.apply(delta);
+    reader.writeWorkspaceState(state);
+
+    // persisted state is the cumulative result of all applied deltas
+    ProjectRegistry restored = reader.readWorkspaceState(null);
+    assertTrue(restored.isValid());
+    assertEquals(1, restored.getProjects().length);
+    assertEquals(f1.getArtifactKey(), restored.getProjectFacade(pom1).getArtifactKey());
+    assertNull(restored.getProjectFacade(pom2));
+    assertTrue(getWorkspaceArtifacts(restored, f2.getArtifactKey()).isEmpty());
+
+    // including the requirements of the replaced pom1
+    MutableProjectRegistry registry = new MutableProjectRegistry(restored);
+    assertEquals(Collections.singleton(pom1),
+        registry.getDependents(MavenCapability.createMavenParent(f2.getArtifactKey()), false));
+    assertTrue(registry.getDependents(MavenCapability.createMavenArtifact(f2.getArtifactKey()), false).isEmpty());
+
+    // and is still validated against the workspace when read
+    project.delete(true, true, monitor);
+    assertFalse(reader.readWorkspaceState(null).isValid());
+
+    new File(tmpDir, WORKSPACE_STATE_SER).delete();
+    tmpDir.delete();
+  }
+
+  @Test
+  public void testUnreadableWorkspaceState() throws Exception {
+    File tmpDir = File.createTempFile("m2e-" + name.getMethodName(), "dir");
+    tmpDir.delete();
+    tmpDir.mkdir();
+    File stateFile = new File(tmpDir, WORKSPACE_STATE_SER);
+    Files.write(stateFile.toPath(), "not a workspace state".getBytes(StandardCharsets.UTF_8));
+
+    // an unknown or damaged format is discarded, the registry is then rebuilt from the workspace
+    ProjectRegistryReader reader = new ProjectRegistryReader(tmpDir);
+    assertNull(reader.readWorkspaceState(null));
+
+    stateFile.delete();
+    tmpDir.delete();
+  }
+
   private MavenProjectFacade newProjectFacade(IFile pom) throws Exception {
     MavenProject mavenProject = maven.readProject(pom.getLocation().toFile(), monitor);
     return new MavenProjectFacade(null, pom, mavenProject, null);
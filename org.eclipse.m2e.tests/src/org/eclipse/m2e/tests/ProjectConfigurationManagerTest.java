@@ -77,7 +77,9 @@ import org.eclipse.m2e.core.project.MavenUpdateRequest;
 import org.eclipse.m2e.core.project.ProjectImportConfiguration;
 import org.eclipse.m2e.core.project.ResolverConfiguration;
 import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
+import org.eclipse.m2e.jdt.internal.BuildPathManager;
 import org.eclipse.m2e.tests.common.AbstractMavenProjectTestCase;
+import org.eclipse.m2e.tests.common.ClasspathHelpers;
 import org.eclipse.m2e.tests.common.FilexWagon;
 import org.eclipse.m2e.tests.common.WorkspaceHelpers;
 
@@ -144,6 +146,35 @@ public class ProjectConfigurationManagerTest extends AbstractMavenProjectTestCas
 
   @Test
   public void testWorkspaceResolutionOfInterModuleDependenciesDuringImport() throws Exception {
+    importWithoutRemoteResolution("pom.xml", "dependent/pom.xml", "dependency/pom.xml", "parent/pom.xml");
+  }
+
+  @Test
+  public void testImportedModulesConfiguredRegardlessOfImportOrder() throws Exception {
+    // dependent module is imported before its dependency and its parent
+    IProject[] projects = importWithoutRemoteResolution("dependent/pom.xml", "dependency/pom.xml", "parent/pom.xml",
+        "pom.xml");
+
+    IProject dependent = projects[0];
+    IProject dependency = projects[1];
+    for(IProject project : projects) {
+      assertTrue(project.getName(), project.hasNature(IMavenConstants.NATURE_ID));
+      assertNoErrors(project);
+    }
+    assertTrue(dependent.hasNature(JavaCore.NATURE_ID));
+    assertTrue(dependency.hasNature(JavaCore.NATURE_ID));
+
+    // once configured, the dependent module sees its dependency from the workspace
+    IClasspathEntry[] cp = BuildPathManager.getMaven2ClasspathContainer(JavaCore.create(dependent))
+        .getClasspathEntries();
+    assertEquals(1, cp.length);
+    ClasspathHelpers.assertClasspathEntry(cp, dependency.getFullPath());
+  }
+
+  /**
+   * Imports the given MNGECLIPSE-1990 poms and asserts that no dependency was resolved from the remote repository.
+   */
+  private IProject[] importWithoutRemoteResolution(String... pomNames) throws Exception {
     String oldSettings = mavenConfiguration.getUserSettingsFile();
     try {
       injectFilexWagon();
@@ -159,15 +190,17 @@ public class ProjectConfigurationManagerTest extends AbstractMavenProjectTestCas
       };
       Job.getJobManager().addJobChangeListener(jobChangeListener);
       mavenConfiguration.setUserSettingsFile(new File("projects/MNGECLIPSE-1990/settings.xml").getAbsolutePath());
+      IProject[] projects;
       List<String> requests;
       try {
-        importProjects("projects/MNGECLIPSE-1990", new String[] {"pom.xml", "dependent/pom.xml", "dependency/pom.xml",
-            "parent/pom.xml"}, new ResolverConfiguration());
+        projects = importProjects("projects/MNGECLIPSE-1990", pomNames, new ResolverConfiguration());
         requests = FilexWagon.getRequests();
       } finally {
         Job.getJobManager().removeJobChangeListener(jobChangeListener);
       }
       assertTrue("Dependency resolution was attempted from remote repository: " + requests, requests.isEmpty());
+      waitForJobsToComplete();
+      return projects;
     } finally {
       mavenConfiguration.setUserSettingsFile(oldSettings);
     }
@@ -271,6 +271,38 @@ public class ProjectRegistryManagerTest extends AbstractMavenProjectTestCase {
     assertNotNull(event.getMavenProject());
   }
 
+  @Test
+  public void testMavenProjectUnchangedWhenRequestedAgain() throws Exception {
+    List<IProject> projects = new ArrayList<>();
+    projects.add(importProject("projects/435692_affected_changes/parent/pom.xml"));
+    projects.add(importProject("projects/435692_affected_changes/p1/pom.xml"));
+    projects.add(importProject("projects/435692_affected_changes/p2/pom.xml"));
+    projects.add(importProject("projects/435692_affected_changes/p3/pom.xml"));
+    projects.add(createExisting("t017-p2"));
+    projects.add(createExisting("t017-p3"));
+    projects.add(createExisting("t017-p4"));
+    waitForJobsToComplete();
+
+    List<String> expected = new ArrayList<>();
+    for(IProject project : projects) {
+      expected.add(describe(manager.create(project, monitor).getMavenProject(monitor)));
+    }
+
+    // whether an instance is served from the cache or reloaded, its state must not change
+    for(int i = 0; i < projects.size(); i++ ) {
+      IMavenProjectFacade facade = manager.create(projects.get(i), monitor);
+      assertEquals(expected.get(i), describe(facade.getMavenProject(monitor)));
+    }
+  }
+
+  private static String describe(MavenProject mavenProject) {
+    StringBuilder sb = new StringBuilder(mavenProject.getId());
+    for(Artifact a : mavenProject.getArtifacts()) {
+      sb.append(' ').append(a.getId()).append('=').append(a.getFile());
+    }
+    return sb.toString();
+  }
+
   @Test
   public void test001_missingParent() throws Exception {
     FileUtils.deleteDirectory(new File(repo, "t001"));
@@ -798,6 +830,45 @@ public class ProjectRegistryManagerTest extends AbstractMavenProjectTestCase {
     assertFalse(a.isResolved());
   }
 
+  @Test
+  public void test017_moduleRefreshSingleDelta() throws Exception {
+    // p3 has parent p2 and depends on p4, p2 and p4 are independent of each other
+    IProject p2 = createExisting("t017-p2");
+    IProject p3 = createExisting("t017-p3");
+    IProject p4 = createExisting("t017-p4");
+    waitForJobsToComplete();
+
+    List<MavenProjectChangedEvent[]> notifications = new ArrayList<>();
+    IMavenProjectChangedListener notificationListener = (event, monitor) -> notifications.add(event);
+
+    boolean origSuspended = Job.getJobManager().isSuspended();
+
+    Job.getJobManager().suspend();
+    manager.addMavenProjectChangedListener(notificationListener);
+    try {
+      events.clear();
+
+      // order of the request must not matter, regardless of how the projects are resolved
+      manager.refresh(new MavenUpdateRequest(new IProject[] {p3, p4, p2}, false, false), monitor);
+
+      // all projects are applied to the registry as one delta
+      assertEquals(1, notifications.size());
+      assertContainsOnly(getProjectsFromEvents(events), p2, p3, p4);
+
+      MavenProject mavenProject = manager.create(p3, monitor).getMavenProject(monitor);
+      assertEquals("t017-p2", mavenProject.getParent().getArtifactId());
+      Artifact a = mavenProject.getArtifacts().iterator().next();
+      assertTrue(a.isResolved());
+      assertEquals(p4.getFile(IMavenConstants.POM_FILE_NAME).getLocation().toFile().getAbsoluteFile(), a.getFile()
+          .getAbsoluteFile());
+    } finally {
+      manager.removeMavenProjectChangedListener(notificationListener);
+      if(!origSuspended) {
+        Job.getJobManager().resume();
+      }
+    }
+  }
+
   @Test
   public void testOptionalDependencies() throws Exception {
     IProject p1 = createExisting("optionaldependency-p01");
@@ -1348,6 +1419,27 @@ public class ProjectRegistryManagerTest extends AbstractMavenProjectTestCase {
 
   }
 
+  @Test
+  public void test435692_unaffected_dependents() throws Exception {
+    importProject("projects/435692_affected_changes/parent/pom.xml");
+    importProject("projects/435692_affected_changes/p1/pom.xml");
+    IProject p2 = importProject("projects/435692_affected_changes/p2/pom.xml");
+    IProject p3 = importProject("projects/435692_affected_changes/p3/pom.xml");
+    IProject p4 = importProject("projects/435692_affected_changes/p4/pom.xml");
+    waitForJobsToComplete();
+
+    // nothing requires capabilities of p2, p3 or p4, only the project itself is refreshed
+    for(IProject project : new IProject[] {p2, p3, p4}) {
+      events.clear();
+      IFile pom = project.getFile("pom.xml");
+      pom.setLocalTimeStamp(pom.getLocalTimeStamp() + 1000L);
+      pom.touch(monitor);
+      refreshMavenProject(project);
+      waitForJobsToComplete();
+      assertContainsOnly(getProjectsFromEvents(events), project);
+    }
+  }
+
   @Test
   public void test436929_import_refresh() throws Exception {
 
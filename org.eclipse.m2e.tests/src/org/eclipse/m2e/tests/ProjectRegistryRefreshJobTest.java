@@ -35,6 +35,7 @@ import org.eclipse.core.resources.IResourceChangeEvent;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.NullProgressMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
 import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
@@ -176,6 +177,36 @@ public class ProjectRegistryRefreshJobTest extends AbstractMavenProjectTestCase
     assertEquals(338, LOCAL_ARTIFACT.length());
   }
 
+  @Test
+  public void testCoalesceQueuedRequests() throws Exception {
+    IProject[] projects = importProjects("projects/updateProject/multiProject/", new String[] {"projectA/pom.xml",
+        "projectB/pom.xml"}, new ResolverConfiguration());
+    waitForJobsToComplete();
+    WorkspaceHelpers.assertNoErrors(projects[0]);
+    WorkspaceHelpers.assertNoErrors(projects[1]);
+
+    boolean origSuspended = Job.getJobManager().isSuspended();
+
+    events.clear();
+    Job.getJobManager().suspend();
+    try {
+      // overlapping requests queued before the job gets a chance to run
+      projectRefreshJob.refresh(new MavenUpdateRequest(projects[0], false, false));
+      projectRefreshJob.refresh(new MavenUpdateRequest(projects, false, false));
+      projectRefreshJob.refresh(new MavenUpdateRequest(projects[0], false, false));
+      assertTrue(events.isEmpty());
+    } finally {
+      if(!origSuspended) {
+        Job.getJobManager().resume();
+      }
+    }
+    waitForJobsToComplete();
+
+    // each project is resolved once
+    assertEquals(2, events.size());
+    assertContainsOnly(getProjectsFromEvents(events), projects[0], projects[1]);
+  }
+
   @Test
   public void testRefreshAfterOpen() throws Exception {
     setAutoBuilding(true);
@@ -2,6 +2,8 @@
 package org.eclipse.m2e.tests.builder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -36,4 +38,22 @@ public class BuildContextLifecycleTest extends AbstractMavenProjectTestCase {
 
     assertEquals("Created resource was not made visible", -1, initialTestResourcesCount[0]);
   }
+
+  @Test
+  public void testBuildContextRefreshProjectRepeatedBuilds() throws Exception {
+    IProject project = importProject("projects/testProjectBuildContext/pom.xml");
+
+    for(int i = 0; i < 2; i++ ) {
+      project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+
+      // whatever the build created on disk must be visible in the workspace once the build returns
+      String[] created = project.getLocation().toFile().list((dir, name) -> name.startsWith("refreshTest"));
+      assertNotNull(created);
+      assertTrue("Build did not create any resource", created.length > 0);
+      for(String name : created) {
+        assertTrue("Created resource was not made visible: " + name, project.getFile(name).exists());
+        assertTrue(name, project.getFile(name).isSynchronized(IResource.DEPTH_ZERO));
+      }
+    }
+  }
 }
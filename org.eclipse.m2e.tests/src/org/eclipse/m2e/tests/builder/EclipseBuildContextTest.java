@@ -13,6 +13,8 @@
 
 package org.eclipse.m2e.tests.builder;
 
+import static org.eclipse.m2e.tests.builder.ScannerHelpers.asSet;
+import static org.eclipse.m2e.tests.builder.ScannerHelpers.scan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
@@ -47,6 +49,37 @@ public class EclipseBuildContextTest extends AbstractMavenProjectTestCase {
     checkScanner(scanner);
   }
 
+  @Test
+  public void testScannersOverSameProject() throws Exception {
+    IProject project = importProject("projects/buildcontext-scanner/pom.xml");
+    File basedir = project.getLocation().toFile();
+
+    // several scanners from one build context, each must see every matching file under its own basedir
+    EclipseBuildContext context = newBuildContext(project);
+
+    Scanner scanner = context.newScanner(new File(basedir, "src/main/resources"));
+    assertEquals(asSet("top.txt", "sub" + File.separator + "other.xml",
+        "sub" + File.separator + "dir" + File.separator + "file.txt"), scan(scanner, new String[] {"**/*"}, null));
+
+    scanner = context.newScanner(new File(basedir, "src/main/resources"));
+    assertEquals(asSet("top.txt"), scan(scanner, new String[] {"**/*.txt"}, new String[] {"sub/**"}));
+
+    scanner = context.newScanner(new File(basedir, "src/test/resources"));
+    assertEquals(asSet("test.txt"), scan(scanner, new String[] {"**/*"}, null));
+
+    scanner = context.newScanner(basedir);
+    assertEquals(asSet("src" + File.separator + "test" + File.separator + "resources" + File.separator + "test.txt"),
+        scan(scanner, new String[] {"src/test/**/*.txt"}, null));
+
+    // files created since the previous build are visible to the next one
+    File added = new File(basedir, "src/main/resources/added.txt");
+    assertTrue(added.createNewFile());
+
+    context = newBuildContext(project);
+    scanner = context.newScanner(new File(basedir, "src/main/resources"));
+    assertEquals(asSet("top.txt", "added.txt"), scan(scanner, new String[] {"*.txt"}, null));
+  }
+
   private EclipseBuildContext newBuildContext(IProject project) {
     return new EclipseBuildContext(project, new HashMap<String, Object>(), new DummyBuildResultCollector());
   }
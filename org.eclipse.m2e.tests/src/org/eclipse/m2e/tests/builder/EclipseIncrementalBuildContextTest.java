@@ -13,6 +13,9 @@
 
 package org.eclipse.m2e.tests.builder;
 
+import static org.eclipse.m2e.tests.builder.ScannerHelpers.asSet;
+import static org.eclipse.m2e.tests.builder.ScannerHelpers.scan;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
@@ -58,6 +61,38 @@ public class EclipseIncrementalBuildContextTest extends AbstractMavenProjectTest
     checkBaseDirScanner(scanner);
   }
 
+  @Test
+  public void testScannersOverSharedDelta() throws Exception {
+    IProject project = importProject("projects/buildcontext-scanner/pom.xml");
+
+    ResourceDeltaStub delta = new ResourceDeltaStub(project);
+    ResourceDeltaStub main = delta.addChild(new ResourceDeltaStub(project.getFolder("src")))
+        .addChild(new ResourceDeltaStub(project.getFolder("src/main")));
+    ResourceDeltaStub resources = main.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources")));
+    resources.addChild(new ResourceDeltaStub(project.getFile("src/main/resources/top.txt")));
+    ResourceDeltaStub sub = resources.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources/sub")));
+    sub.addChild(new ResourceDeltaStub(project.getFile("src/main/resources/sub/other.xml")));
+    sub.addChild(new ResourceDeltaStub(project.getFolder("src/main/resources/sub/dir")))
+        .addChild(new ResourceDeltaStub(project.getFile("src/main/resources/sub/dir/file.txt")));
+
+    // many scanners over the same delta, each must only see changes under its own basedir
+    EclipseIncrementalBuildContext context = newBuildContext(delta);
+    File basedir = project.getLocation().toFile();
+
+    Scanner scanner = context.newScanner(new File(basedir, "src/main/resources"), false);
+    assertEquals(asSet("top.txt"), scan(scanner, new String[] {"**/*.txt"}, new String[] {"sub/**"}));
+
+    scanner = context.newScanner(new File(basedir, "src/main/resources/sub"), false);
+    assertEquals(asSet("other.xml", "dir" + File.separator + "file.txt"), scan(scanner, new String[] {"**/*"}, null));
+
+    scanner = context.newScanner(new File(basedir, "src/main/resources"), false);
+    assertEquals(asSet("sub" + File.separator + "other.xml"), scan(scanner, new String[] {"**/*.xml"}, null));
+
+    // test resources did not change
+    scanner = context.newScanner(new File(basedir, "src/test/resources"), false);
+    assertEquals(asSet(), scan(scanner, new String[] {"**/*"}, null));
+  }
+
   private EclipseIncrementalBuildContext newBuildContext(ResourceDeltaStub delta) {
     return new EclipseIncrementalBuildContext(delta, new HashMap<String, Object>(), new DummyBuildResultCollector());
   }
@@ -18,8 +18,10 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.Properties;
 
 import org.junit.Ignore;
@@ -85,6 +87,10 @@ public class MavenBuilderTest extends AbstractMavenProjectTestCase {
     return properties;
   }
 
+  private void setContents(IFile file, String contents) throws CoreException {
+    file.setContents(new ByteArrayInputStream(contents.getBytes(StandardCharsets.UTF_8)), true, false, monitor);
+  }
+
   @Test
   public void test002_customResourceLocation() throws Exception {
     deleteProject("resourcefiltering-p002");
@@ -293,6 +299,45 @@ public class MavenBuilderTest extends AbstractMavenProjectTestCase {
     }
   }
 
+  @Test
+  public void test014_incrementalResourceChange() throws Exception {
+    deleteProject("resourcefiltering-p001");
+    IProject project = createExisting("resourcefiltering-p001", "projects/resourcefiltering/p001");
+    waitForJobsToComplete();
+
+    assertNoErrors(project);
+
+    project.build(IncrementalProjectBuilder.FULL_BUILD, monitor);
+    waitForJobsToComplete();
+
+    IPath aPath = project.getFolder("target/classes").getFullPath().append("a.properties");
+    IPath bPath = project.getFolder("target/test-classes").getFullPath().append("b.properties");
+
+    // changed resource is processed by incremental build
+    setContents(project.getFile("src/main/resources/a.properties"),
+        "a.name=${pom.name}\na.version=${pom.version}\na.extra=${pom.artifactId}\n");
+    project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
+    waitForJobsToComplete();
+
+    Properties properties = loadProperties(aPath);
+    assertEquals("p001", properties.getProperty("a.name"));
+    assertEquals("p001", properties.getProperty("a.extra"));
+
+    // java-only change leaves processed resources intact
+    IFile javaFile = project.getFile("src/main/java/a/A.java");
+    javaFile.appendContents(new ByteArrayInputStream("\n// changed\n".getBytes(StandardCharsets.UTF_8)), true, false,
+        monitor);
+    project.build(IncrementalProjectBuilder.INCREMENTAL_BUILD, monitor);
+    waitForJobsToComplete();
+
+    properties = loadProperties(aPath);
+    assertEquals("p001", properties.getProperty("a.extra"));
+    assertEquals("0.0.1-SNAPSHOT", properties.getProperty("a.version"));
+
+    properties = loadProperties(bPath);
+    assertEquals("p001", properties.getProperty("b.name"));
+  }
+
   @Test
   public void test368380_buildContextDeepRefreshFromLocal() throws Exception {
     IProject project = importProject("projects/368380_buildContextDeepRefreshFromLocal/pom.xml");
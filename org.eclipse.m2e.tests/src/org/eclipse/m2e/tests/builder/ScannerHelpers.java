@@ -0,0 +1,40 @@
+/*******************************************************************************
+ * Copyright (c) 2020 Sonatype, Inc. and others
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License 2.0
+ * which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *******************************************************************************/
+
+package org.eclipse.m2e.tests.builder;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.codehaus.plexus.util.Scanner;
+
+
+class ScannerHelpers {
+
+  private ScannerHelpers() {
+  }
+
+  /**
+   * Runs the scanner with the given patterns.
+   *
+   * @return paths of the included files, relative to the scanner basedir
+   */
+  static Set<String> scan(Scanner scanner, String[] includes, String[] excludes) {
+    scanner.setIncludes(includes);
+    scanner.setExcludes(excludes);
+    scanner.scan();
+    return asSet(scanner.getIncludedFiles());
+  }
+
+  static Set<String> asSet(String... paths) {
+    return new HashSet<>(Arrays.asList(paths));
+  }
+}
@@ -158,6 +158,48 @@ public class LifecycleMappingDiscoveryTest extends AbstractLifecycleMappingTest
     assertInstallCatalogItemProposal(items.get(1), proposals.get(goal2));
   }
 
+  @Test
+  public void testProposalMatchingFilters() throws Exception {
+    LifecycleMappingDiscoveryRequest request = loadLifecycleMappingDiscoveryRequest("projects/discovery/twoMojoExecutions/pom.xml");
+
+    // sanity check
+    assertEquals(1, request.getProjects().size());
+    assertEquals("Unexpected requirements number", 2, request.getRequirements().size());
+
+    MojoExecutionMappingRequirement goal1 = null;
+    MojoExecutionMappingRequirement goal2 = null;
+
+    for(ILifecycleMappingRequirement req : request.getRequirements()) {
+      if(req instanceof MojoExecutionMappingRequirement) {
+        MojoExecutionMappingRequirement goal = (MojoExecutionMappingRequirement) req;
+        if("test-goal-1".equals(goal.getExecution().getGoal())) {
+          goal1 = goal;
+        } else if("test-goal-2".equals(goal.getExecution().getGoal())) {
+          goal2 = goal;
+        }
+      }
+    }
+
+    assertNotNull("test-goal-1 requirement is missing", goal1);
+    assertNotNull("test-goal-2 requirement is missing", goal2);
+
+    MavenDiscoveryService srv = new MavenDiscoveryService();
+
+    // each filter element must be honoured, including inclusive version range bounds
+    newCatalogItem(srv, "projects/discovery/nomatch-test-goal-1-version.xml");
+    newCatalogItem(srv, "projects/discovery/nomatch-test-goal-1-artifactId.xml");
+    CatalogItem matchGoal1 = newCatalogItem(srv, "projects/discovery/match-test-goal-1.xml");
+    CatalogItem matchGoal2 = newCatalogItem(srv, "projects/discovery/match-test-goal-2-upper-bound.xml");
+
+    Map<ILifecycleMappingRequirement, List<IMavenDiscoveryProposal>> proposals = srv.discover(
+        request.getRequirements(), null, monitor);
+
+    assertEquals(2, proposals.size());
+
+    assertInstallCatalogItemProposal(matchGoal1, proposals.get(goal1));
+    assertInstallCatalogItemProposal(matchGoal2, proposals.get(goal2));
+  }
+
   @Test
   public void testPreselectedProposals() throws Exception {
     LifecycleMappingDiscoveryRequest request = loadLifecycleMappingDiscoveryRequest("projects/discovery/mojoExecutions/pom.xml");
@@ -108,6 +108,33 @@ public class MavenExecutionContextTest extends AbstractMavenProjectTestCase {
     }, monitor);
   }
 
+  @Test
+  public void testNoStateLeakBetweenContexts() throws Exception {
+    final String requestProperty = "request-property";
+    final String sessionProperty = "session-property";
+    final MavenExecutionContext first = maven.createExecutionContext();
+    first.getExecutionRequest().getUserProperties().put(requestProperty, "true");
+    first.execute((context, monitor) -> {
+      context.getSession().getUserProperties().put(sessionProperty, "true");
+      return null;
+    }, monitor);
+
+    // session of a finished context cannot be used anymore
+    try {
+      first.getSession();
+      fail();
+    } catch(IllegalStateException expected) {
+    }
+
+    final MavenExecutionContext second = maven.createExecutionContext();
+    assertFalse(second.getExecutionRequest().getUserProperties().containsKey(requestProperty));
+    second.execute((context, monitor) -> {
+      assertFalse(context.getSession().getUserProperties().containsKey(requestProperty));
+      assertFalse(context.getSession().getUserProperties().containsKey(sessionProperty));
+      return null;
+    }, monitor);
+  }
+
   @Test
   public void testIllegalState() throws Exception {
     final MavenExecutionContext context = maven.createExecutionContext();
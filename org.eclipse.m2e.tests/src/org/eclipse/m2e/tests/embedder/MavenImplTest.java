@@ -24,8 +24,13 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -565,6 +570,61 @@ public class MavenImplTest extends AbstractMavenProjectTestCase {
     }
   }
 
+  @Test
+  public void test386196_ConcurrentDownloadsOfSameArtifacts() throws Exception {
+    HttpServer httpServer = new HttpServer();
+    httpServer.addResources("/", "");
+    httpServer.enableRecording(".*\\.jar");
+    httpServer.start();
+
+    String origSettings = configuration.getUserSettingsFile();
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      File settingsFile = new File("target/settings-386196.xml");
+      FileHelpers.filterXmlFile(new File("projects/386196-parallel-downloads/settings-template.xml"), settingsFile,
+          Collections.singletonMap("@port.http@", Integer.toString(httpServer.getHttpPort())));
+      configuration.setUserSettingsFile(settingsFile.getCanonicalPath());
+
+      FileHelpers.deleteDirectory(new File("target/386196localrepo/"));
+
+      // two independent execution contexts resolve the same dependency graph at the same time
+      File pomFile = new File("projects/386196-parallel-downloads/pom.xml");
+      List<Future<MavenExecutionResult>> futures = new ArrayList<>();
+      for(int i = 0; i < 2; i++ ) {
+        futures.add(executor.submit(() -> readMavenProject(pomFile, true, new NullProgressMonitor())));
+      }
+
+      for(Future<MavenExecutionResult> future : futures) {
+        MavenExecutionResult result = future.get();
+        assertFalse(result.getExceptions().toString(), result.hasExceptions());
+        assertFalse(result.getProject().getArtifacts().isEmpty());
+        for(Artifact artifact : result.getProject().getArtifacts()) {
+          assertTrue(artifact.toString(), artifact.isResolved());
+          File remote = new File("repositories/remoterepo/" + artifact.getGroupId().replace('.', '/') + "/"
+              + artifact.getArtifactId() + "/" + artifact.getVersion(), artifact.getFile().getName());
+          assertEquals(artifact.toString(), remote.length(), artifact.getFile().length());
+        }
+      }
+
+      // every jar is downloaded, and at most once per execution context
+      Map<String, Integer> downloads = new HashMap<>();
+      for(String httpRequest : httpServer.getRecordedRequests()) {
+        String[] parts = httpRequest.split(" ");
+        if("GET".equals(parts[0])) {
+          downloads.merge(parts[1].substring(parts[1].lastIndexOf('/') + 1), 1, Integer::sum);
+        }
+      }
+      for(Artifact artifact : futures.get(0).get().getProject().getArtifacts()) {
+        int count = downloads.getOrDefault(artifact.getFile().getName(), 0);
+        assertTrue(artifact + " downloaded " + count + " times", count >= 1 && count <= 2);
+      }
+    } finally {
+      executor.shutdownNow();
+      configuration.setUserSettingsFile(origSettings);
+      httpServer.stop();
+    }
+  }
+
   @Test
   public void test438454_guiceScopedComponentInjection() throws Exception {
     // the point of this test is to verify that @MojoExecutionScoped component can be instantiated and injected
@@ -48,6 +48,17 @@ public class LifecycleComparisonTest extends AbstractLifecycleMappingTest {
     assertTrue(LifecycleMappingFactory.isLifecycleMappingChanged(facadeB, facadeA, monitor));
   }
 
+  @Test
+  public void testDescriptionChange() throws Exception {
+    IProject project = createExisting("LifecycleComparisonTest", "projects/lifecyclemapping/lifecyclecomparison");
+    LifecycleMappingConfiguration facadeA = LifecycleMappingConfiguration.newLifecycleMappingConfiguration(
+        newMavenProjectFacade(project, "pom.xml"), monitor);
+    MavenProjectFacade facadeB = newMavenProjectFacade(project, "pom-description-change.xml");
+
+    // pom changes that do not affect mapping, executions or their configuration must not require reconfiguration
+    assertFalse(LifecycleMappingFactory.isLifecycleMappingChanged(facadeB, facadeA, monitor));
+  }
+
   protected MavenProjectFacade newMavenProjectFacade(IProject project, String path) throws CoreException {
     MavenProjectFacade facade = super.newMavenProjectFacade(project.getFile(path));
     LifecycleMappingResult mappingResult = calculateLifecycleMapping(facade);
@@ -65,6 +65,7 @@ import org.eclipse.m2e.core.internal.project.registry.ProjectRegistryManager;
 import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
 import org.eclipse.m2e.core.lifecyclemapping.model.PluginExecutionAction;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
+import org.eclipse.m2e.core.project.MavenUpdateRequest;
 import org.eclipse.m2e.core.project.ResolverConfiguration;
 import org.eclipse.m2e.core.project.configurator.AbstractBuildParticipant;
 import org.eclipse.m2e.core.project.configurator.AbstractCustomizableLifecycleMapping;
@@ -816,8 +817,8 @@ public class LifecycleMappingTest extends AbstractLifecycleMappingTest {
 
   @Test
   public void testOrder() throws Exception {
-    IMavenProjectFacade facade = importMavenProject("projects/lifecyclemapping/lifecycleMappingMetadata/sorting/",
-        "testConfiguratorOrder/pom.xml");
+    IMavenProjectFacade facade = importMavenProject(
+        "projects/lifecyclemapping/lifecycleMappingMetadata/sorting/testConfiguratorOrderModules", "module1/pom.xml");
     WorkspaceHelpers.assertNoErrors(facade.getProject());
 
     IFile log = facade.getProject().getFile("target/configurator-log.txt");
@@ -826,6 +827,26 @@ public class LifecycleMappingTest extends AbstractLifecycleMappingTest {
     assertEquals("TEST_SECONDARY3,TEST_SECONDARY4,TEST_SECONDARY6,TEST_SECONDARY5", order);
   }
 
+  @Test
+  public void testOrderMultipleProjects() throws Exception {
+    // both modules inherit the configurator mapping from their parent's pluginManagement
+    IProject[] projects = importProjects(
+        "projects/lifecyclemapping/lifecycleMappingMetadata/sorting/testConfiguratorOrderModules",
+        new String[] {"module1/pom.xml", "module2/pom.xml"}, new ResolverConfiguration());
+    waitForJobsToComplete();
+
+    // update both projects in one request, configurators still run once per project and in order
+    projectConfigurationManager.updateProjectConfiguration(new MavenUpdateRequest(projects, false, false), monitor);
+
+    String expected = "TEST_SECONDARY3,TEST_SECONDARY4,TEST_SECONDARY6,TEST_SECONDARY5";
+    for(IProject project : projects) {
+      WorkspaceHelpers.assertNoErrors(project);
+      IFile log = project.getFile("target/configurator-log.txt");
+      assertTrue(log.getFullPath() + " is missing", log.exists());
+      assertEquals(expected + "," + expected, IOUtil.toString(log.getContents(true)));
+    }
+  }
+
   @Test
   public void test371618_NullLifecycleMappingPluginVersion() throws Exception {
     IProject[] projects = importProjects("projects/lifecyclemapping/371618",
@@ -22,6 +22,7 @@ import org.junit.Test;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 
 import org.apache.maven.artifact.Artifact;
 
@@ -67,6 +68,36 @@ public class MavenPluginMetadataSourceTest extends AbstractLifecycleMappingTest
     assertEquals(executionKey.getVersion(), artifact.getVersion());
   }
 
+  @Test
+  public void testBasicAfterWorkspaceRestart() throws Exception {
+    IMavenProjectFacade facade = importMavenProject("projects/lifecyclemapping/mavenpluginsource/basic", "pom.xml");
+    assertNotNull("Expected not null MavenProjectFacade", facade);
+
+    MojoExecutionKey executionKey = new MojoExecutionKey("org.eclipse.m2e.test.lifecyclemapping",
+        "test-embeddedmapping-plugin", "1.0.0", "test-goal-1", "compile", "mapping-without-plugin-gav");
+    PluginExecutionMetadata before = getPluginExecutionMetadata((MavenProjectFacade) facade, executionKey);
+
+    deserializeFromWorkspaceState(facade);
+
+    // metadata read from the plugin jar again must be the same as the first time around
+    PluginExecutionMetadata after = getPluginExecutionMetadata((MavenProjectFacade) facade, executionKey);
+    assertEquals(before.getAction(), after.getAction());
+    assertEquals(before.getActionDom(), after.getActionDom());
+    Artifact artifact = (Artifact) after.getSource().getSource();
+    assertEquals(executionKey.getGroupId(), artifact.getGroupId());
+    assertEquals(executionKey.getArtifactId(), artifact.getArtifactId());
+    assertEquals(executionKey.getVersion(), artifact.getVersion());
+  }
+
+  private PluginExecutionMetadata getPluginExecutionMetadata(MavenProjectFacade facade, MojoExecutionKey executionKey)
+      throws CoreException {
+    LifecycleMappingResult mappingResult = calculateLifecycleMapping(facade);
+    List<IPluginExecutionMetadata> executionMapping = mappingResult.getMojoExecutionMapping().get(executionKey);
+    assertNotNull(executionKey.toString(), executionMapping);
+    assertEquals(1, executionMapping.size());
+    return (PluginExecutionMetadata) executionMapping.get(0);
+  }
+
   @Test
   public void test422135_mavenPluginSourceWorkspaceResolution() throws Exception {
     // the point of this test is to assert that workspace projects are not used as maven plugin metadata source
@@ -14,16 +14,23 @@ import org.junit.Test;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.CoreException;
 
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 import org.eclipse.m2e.core.internal.IMavenConstants;
 import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingFactory;
+import org.eclipse.m2e.core.internal.lifecyclemapping.LifecycleMappingResult;
 import org.eclipse.m2e.core.internal.lifecyclemapping.model.LifecycleMappingMetadataSource;
+import org.eclipse.m2e.core.internal.lifecyclemapping.model.PluginExecutionMetadata;
 import org.eclipse.m2e.core.internal.lifecyclemapping.model.io.xpp3.LifecycleMappingMetadataSourceXpp3Reader;
 import org.eclipse.m2e.core.internal.markers.SourceLocation;
+import org.eclipse.m2e.core.internal.project.registry.MavenProjectFacade;
+import org.eclipse.m2e.core.lifecyclemapping.model.IPluginExecutionMetadata;
+import org.eclipse.m2e.core.lifecyclemapping.model.PluginExecutionAction;
 import org.eclipse.m2e.core.project.IMavenProjectFacade;
 import org.eclipse.m2e.core.project.configurator.ILifecycleMapping;
+import org.eclipse.m2e.core.project.configurator.MojoExecutionKey;
 import org.eclipse.m2e.tests.common.AbstractLifecycleMappingTest;
 import org.eclipse.m2e.tests.common.WorkspaceHelpers;
 import org.eclipse.m2e.tests.configurators.TestLifecycleMapping;
@@ -166,6 +173,41 @@ public class PluginExecutionMetadataPrioritiesTest extends AbstractLifecycleMapp
         null /*lineNumber*/, project);
   }
 
+  // Modules with the same packaging and plugin executions must not share mapping inherited from different sources
+  @Test
+  public void testParentMappingNotSharedBetweenModules() throws Exception {
+    importMavenProject("projects/lifecyclemapping/lifecycleMappingMetadata/PluginExecutionMetadataPrioritiesTest",
+        "testParent/pom.xml");
+    MavenProjectFacade useParent = (MavenProjectFacade) importMavenProject(
+        "projects/lifecyclemapping/lifecycleMappingMetadata/PluginExecutionMetadataPrioritiesTest",
+        "testParent/useParent/pom.xml");
+    MavenProjectFacade overrideParent = (MavenProjectFacade) importMavenProject(
+        "projects/lifecyclemapping/lifecycleMappingMetadata/PluginExecutionMetadataPrioritiesTest",
+        "testParent/overrideParent/pom.xml");
+
+    MojoExecutionKey executionKey = new MojoExecutionKey("org.eclipse.m2e.test.lifecyclemapping",
+        "test-lifecyclemapping-plugin", "1.0.0", "test-goal-1", "process-resources", "default-test-goal-1");
+
+    assertEquals("no such project configurator id for test-lifecyclemapping-plugin:test-goal-1 - parent",
+        getConfiguratorId(useParent, executionKey));
+    assertEquals("no such project configurator id for test-lifecyclemapping-plugin:test-goal-1 - override",
+        getConfiguratorId(overrideParent, executionKey));
+
+    // calculating the mapping again gives the same answer regardless of what was calculated in between
+    assertEquals("no such project configurator id for test-lifecyclemapping-plugin:test-goal-1 - parent",
+        getConfiguratorId(useParent, executionKey));
+  }
+
+  private String getConfiguratorId(MavenProjectFacade facade, MojoExecutionKey executionKey) throws CoreException {
+    LifecycleMappingResult mappingResult = calculateLifecycleMapping(facade);
+    List<IPluginExecutionMetadata> executionMapping = mappingResult.getMojoExecutionMapping().get(executionKey);
+    assertNotNull(executionKey.toString(), executionMapping);
+    assertEquals(1, executionMapping.size());
+    PluginExecutionMetadata metadata = (PluginExecutionMetadata) executionMapping.get(0);
+    assertEquals(PluginExecutionAction.configurator, metadata.getAction());
+    return metadata.getConfiguration().getChild("id").getValue();
+  }
+
   // Workspace mappings override plugin mappings
   @Test
   public void testWorkspace() throws Exception {
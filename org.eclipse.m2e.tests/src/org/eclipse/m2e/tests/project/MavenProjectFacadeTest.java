@@ -7,13 +7,16 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Test;
 
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.runtime.IPath;
 
+import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.MojoExecution;
 import org.apache.maven.project.MavenProject;
 
@@ -136,6 +139,56 @@ public class MavenProjectFacadeTest extends AbstractMavenProjectTestCase {
     assertEquals("1.6", maven.getMojoParameterValue(mavenProject, executions.get(0), "target", String.class, monitor));
   }
 
+  @Test
+  public void testGetMojoExecutionsAfterPomChange() throws Exception {
+    IProject project = importProject("projects/getmojoexecution/pom.xml");
+    assertNoErrors(project);
+
+    final IMaven maven = MavenPlugin.getMaven();
+
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+    List<MojoExecution> executions = facade.getMojoExecutions("org.apache.maven.plugins", "maven-compiler-plugin",
+        monitor, "compile");
+    assertEquals(executions.toString(), 1, executions.size());
+    assertEquals("1.6", maven.getMojoParameterValue(facade.getMavenProject(monitor), executions.get(0), "target",
+        String.class, monitor));
+
+    copyContent(project, "pom-changed.xml", "pom.xml");
+
+    // executions of the refreshed project must reflect the new plugin configuration
+    facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+    executions = facade.getMojoExecutions("org.apache.maven.plugins", "maven-compiler-plugin", monitor, "compile");
+    assertEquals(executions.toString(), 1, executions.size());
+
+    final MavenProject mavenProject = facade.getMavenProject(monitor);
+    assertEquals("1.6", maven.getMojoParameterValue(mavenProject, executions.get(0), "source", String.class, monitor));
+    assertEquals("1.7", maven.getMojoParameterValue(mavenProject, executions.get(0), "target", String.class, monitor));
+  }
+
+  @Test
+  public void testResolutionStateAfterWorkspaceRestart() throws Exception {
+    IProject project = importProject("projects/getmojoexecution/pom.xml");
+    assertNoErrors(project);
+
+    IMavenProjectFacade facade = MavenPlugin.getMavenProjectRegistry().create(project, monitor);
+    Set<MojoExecutionKey> executionKeys = new HashSet<>(facade.getMojoExecutionMapping().keySet());
+    Set<String> artifacts = getArtifactIds(facade.getMavenProject(monitor));
+
+    deserializeFromWorkspaceState(facade);
+
+    // whatever is restored from persisted state must match what a fresh resolution produces
+    assertEquals(executionKeys, new HashSet<>(facade.getMojoExecutionMapping().keySet()));
+    assertEquals(artifacts, getArtifactIds(facade.getMavenProject(monitor)));
+  }
+
+  private static Set<String> getArtifactIds(MavenProject mavenProject) {
+    Set<String> ids = new HashSet<>();
+    for(Artifact artifact : mavenProject.getArtifacts()) {
+      ids.add(artifact.getId());
+    }
+    return ids;
+  }
+
   @Test
   public void testGetProjectConfigurators() throws Exception {
     IProject project = importProject("projects/getmojoexecution/pom.xml");